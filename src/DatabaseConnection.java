@@ -6,9 +6,10 @@ import java.sql.SQLException;
  * Singleton class to manage database connections
  */
 public class DatabaseConnection {
-    private static final String URL = "jdbc:mysql://localhost:3306/student_management";
-    private static final String USERNAME = "root";
-    private static final String PASSWORD = ""; // Replace with your MySQL password
+    // Each setting can be overridden with a system property, e.g. -Dstudent.db.url=...
+    private static final String URL = System.getProperty("student.db.url", "jdbc:mysql://localhost:3306/student_management");
+    private static final String USERNAME = System.getProperty("student.db.username", "root");
+    private static final String PASSWORD = System.getProperty("student.db.password", ""); // Replace with your MySQL password
     
     private static Connection connection;
     
@@ -22,20 +23,48 @@ public class DatabaseConnection {
     public static Connection getConnection() {
         try {
             if (connection == null || connection.isClosed()) {
-                Class.forName("com.mysql.cj.jdbc.Driver");
-                connection = DriverManager.getConnection(URL, USERNAME, PASSWORD);
+                connection = openConnection();
             }
             return connection;
-        } catch (SQLException | ClassNotFoundException e) {
+        } catch (SQLException e) {
+            System.out.println("Database connection error: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Open a new connection separate from the shared one; the caller must close it
+     * @return Connection object, or null if the connection failed
+     */
+    public static Connection openNewConnection() {
+        try {
+            return openConnection();
+        } catch (SQLException e) {
             System.out.println("Database connection error: " + e.getMessage());
             return null;
         }
     }
     
     /**
-     * Close the database connection
+     * Helper method to open a connection with the configured settings
+     */
+    private static Connection openConnection() throws SQLException {
+        if (URL.startsWith("jdbc:mysql:")) {
+            try {
+                Class.forName("com.mysql.cj.jdbc.Driver");
+            } catch (ClassNotFoundException e) {
+                throw new SQLException("MySQL driver not found", e);
+            }
+        }
+        return DriverManager.getConnection(URL, USERNAME, PASSWORD);
+    }
+    
+    /**
+     * Snapshot the student cache and close the database connection
      */
     public static void closeConnection() {
+        StudentCache.getInstance().shutdown();
+        
         try {
             if (connection != null && !connection.isClosed()) {
                 connection.close();
@@ -0,0 +1,376 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Singleton in-memory cache of students keyed by ID
+ * The working set is persisted to a local binary snapshot so lookups by ID start warm.
+ * Name searches are not served from it; they always go to the database.
+ */
+public class StudentCache {
+    private static final String SNAPSHOT_FILE = System.getProperty("student.cache.snapshot", "student_cache.snapshot");
+    private static final int SNAPSHOT_MAGIC = 0x53545544; // "STUD"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final long SNAPSHOT_INTERVAL_MINUTES = 5;
+    // ID, age and GPA plus a length prefix for each of the three strings
+    private static final int MIN_RECORD_BYTES = 4 + 4 + 8 + 3 * 4;
+    private static final int GENERATION_STRIPES = 1024;
+
+    private static StudentCache instance;
+
+    private final Map<Integer, Student> studentsById = new ConcurrentHashMap<>();
+    private final Path snapshotPath = Paths.get(SNAPSHOT_FILE);
+    // Bumped on every write or delete of an ID in the stripe, so reads that overlapped one are not cached
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private ScheduledExecutorService snapshotScheduler;
+    private boolean warmedUp;
+
+    // False when a snapshot on disk could not be reconciled, so it is kept for the next start
+    private volatile boolean snapshotWritable;
+
+    // Highest student ID known to exist in the database when the cache was last in sync
+    private final AtomicInteger highWaterMark = new AtomicInteger();
+
+    // Private constructor to prevent instantiation
+    private StudentCache() {}
+
+    /**
+     * Get the shared cache instance
+     * @return StudentCache object
+     */
+    public static synchronized StudentCache getInstance() {
+        if (instance == null) {
+            instance = new StudentCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Load the snapshot, reconcile it against the database and start periodic snapshots.
+     * Only the first call has any effect.
+     * @param connection The connection used for reconciliation
+     */
+    public synchronized void warmUp(Connection connection) {
+        if (warmedUp) {
+            return;
+        }
+        warmedUp = true;
+
+        // Without a snapshot there is nothing to reconcile; the cache fills as students are read.
+        // A snapshot that cannot be reconciled may hold deleted rows, so it is discarded.
+        if (loadSnapshot() && (connection == null || !reconcile(connection))) {
+            System.out.println("Student cache snapshot could not be reconciled; starting with an empty cache"
+                    + " and keeping the snapshot for the next start.");
+            clear();
+        } else {
+            snapshotWritable = true;
+        }
+
+        snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "student-cache-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshotScheduler.scheduleAtFixedRate(this::saveSnapshot,
+                SNAPSHOT_INTERVAL_MINUTES, SNAPSHOT_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Get a cached student by ID
+     * @param id The student ID to look up
+     * @return A copy of the cached student, or null if not cached
+     */
+    public Student get(int id) {
+        Student student = studentsById.get(id);
+        return student != null ? copyOf(student) : null;
+    }
+
+    /**
+     * Record the state of the cache before reading students from the database.
+     * Pass the result to putIfUnchanged once the read has finished.
+     * @return The current write generations
+     */
+    public long[] beginRead() {
+        long[] stamp = new long[GENERATION_STRIPES];
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            stamp[i] = generations.get(i);
+        }
+        return stamp;
+    }
+
+    /**
+     * Cache a student read from the database, unless it was written or deleted since the read began
+     * @param student The student as read from the database
+     * @param stamp The generations returned by beginRead before the read
+     */
+    public void putIfUnchanged(Student student, long[] stamp) {
+        int id = student.getId();
+        int stripe = stripeOf(id);
+        Student copy = copyOf(student);
+
+        // The check runs inside compute so it cannot interleave with invalidate's removal
+        studentsById.compute(id, (key, current) -> generations.get(stripe) == stamp[stripe] ? copy : current);
+        raiseHighWaterMark(id);
+    }
+
+    /**
+     * Evict a student after it has been created, updated or deleted in the database.
+     * The next read loads the row as the database stored it.
+     * @param id The ID of the student that was written
+     */
+    public void invalidate(int id) {
+        generations.incrementAndGet(stripeOf(id));
+        studentsById.remove(id);
+        raiseHighWaterMark(id);
+    }
+
+    /**
+     * Write the cache to the snapshot file, replacing any previous snapshot.
+     * Does nothing if the existing snapshot could not be reconciled this session.
+     */
+    public synchronized void saveSnapshot() {
+        if (!snapshotWritable) {
+            return;
+        }
+        Path tempPath = Paths.get(SNAPSHOT_FILE + ".tmp");
+        List<Student> students = new ArrayList<>(studentsById.values());
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(tempPath.toFile())))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(highWaterMark.get());
+            out.writeInt(students.size());
+
+            for (Student student : students) {
+                out.writeInt(student.getId());
+                writeString(out, student.getName());
+                writeString(out, student.getEmail());
+                out.writeInt(student.getAge());
+                out.writeDouble(student.getGpa());
+                writeString(out, student.getEnrollmentDate());
+            }
+        } catch (IOException e) {
+            System.out.println("Error saving student cache snapshot: " + e.getMessage());
+            return;
+        }
+
+        try {
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("Error saving student cache snapshot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Save a final snapshot and stop the periodic snapshot task
+     */
+    public synchronized void shutdown() {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdownNow();
+            snapshotScheduler = null;
+        }
+        saveSnapshot();
+    }
+
+    /**
+     * Helper method to read the snapshot file into a heap buffer.
+     * The file is not memory-mapped because a live mapping would stop saveSnapshot
+     * from replacing it on Windows until the buffer happened to be garbage-collected.
+     * @return true if a snapshot was loaded, false otherwise
+     */
+    private boolean loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return false;
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("snapshot is too large (" + size + " bytes)");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the whole file is buffered
+            }
+            buffer.flip();
+
+            if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+                System.out.println("Ignoring unrecognised student cache snapshot.");
+                return false;
+            }
+
+            int snapshotHighWaterMark = buffer.getInt();
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining() / MIN_RECORD_BYTES) {
+                throw new IllegalStateException("invalid record count " + count);
+            }
+            for (int i = 0; i < count; i++) {
+                int id = buffer.getInt();
+                String name = readString(buffer);
+                String email = readString(buffer);
+                int age = buffer.getInt();
+                double gpa = buffer.getDouble();
+                String enrollmentDate = readString(buffer);
+
+                studentsById.put(id, new Student(id, name, email, age, gpa, enrollmentDate));
+            }
+            raiseHighWaterMark(snapshotHighWaterMark);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // A truncated or corrupt snapshot only costs us a cold start
+            System.out.println("Error loading student cache snapshot: " + e.getMessage());
+            clear();
+            return false;
+        }
+    }
+
+    /**
+     * Helper method to bring the loaded snapshot up to date with the database.
+     * Rows inserted after the snapshot are found through the ID high-water mark and
+     * rows deleted since are dropped. The schema has no updated-at column, so edits
+     * made to cached rows by other clients while this one was down are not detected.
+     * @return true if reconciliation completed, false otherwise
+     */
+    private boolean reconcile(Connection connection) {
+        int snapshotHighWaterMark = highWaterMark.get();
+
+        String newRowsQuery = "SELECT * FROM students WHERE id > ?";
+        try (PreparedStatement stmt = connection.prepareStatement(newRowsQuery)) {
+            stmt.setInt(1, snapshotHighWaterMark);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    store(new Student(rs.getInt("id"), rs.getString("name"), rs.getString("email"),
+                            rs.getInt("age"), rs.getDouble("gpa"), rs.getString("enrollment_date")));
+                }
+            }
+        } catch (SQLException e) {
+            System.out.println("Error reconciling student cache: " + e.getMessage());
+            return false;
+        }
+
+        if (studentsById.isEmpty()) {
+            return true;
+        }
+
+        // Walk the cached IDs and the table's IDs in order, dropping cached rows that are gone
+        List<Integer> cachedIds = new ArrayList<>(studentsById.keySet());
+        Collections.sort(cachedIds);
+        String idsQuery = "SELECT id FROM students WHERE id <= ? ORDER BY id";
+
+        try (PreparedStatement stmt = connection.prepareStatement(idsQuery)) {
+            stmt.setInt(1, snapshotHighWaterMark);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                int index = 0;
+                while (rs.next() && index < cachedIds.size()) {
+                    int databaseId = rs.getInt(1);
+                    while (index < cachedIds.size() && cachedIds.get(index) < databaseId) {
+                        studentsById.remove(cachedIds.get(index++));
+                    }
+                    if (index < cachedIds.size() && cachedIds.get(index) == databaseId) {
+                        index++;
+                    }
+                }
+                while (index < cachedIds.size() && cachedIds.get(index) <= snapshotHighWaterMark) {
+                    studentsById.remove(cachedIds.get(index++));
+                }
+            }
+        } catch (SQLException e) {
+            System.out.println("Error reconciling student cache: " + e.getMessage());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Helper method to drop every cached student, as on a cold start
+     */
+    private void clear() {
+        studentsById.clear();
+        highWaterMark.set(0);
+    }
+
+    /**
+     * Helper method to cache a student during reconciliation, before any DAO is using the cache
+     */
+    private void store(Student student) {
+        studentsById.put(student.getId(), student);
+        raiseHighWaterMark(student.getId());
+    }
+
+    /**
+     * Helper method to map an ID to its generation counter
+     */
+    private static int stripeOf(int id) {
+        return Math.floorMod(id, GENERATION_STRIPES);
+    }
+
+    /**
+     * Helper method to only ever move the high-water mark forward
+     */
+    private void raiseHighWaterMark(int id) {
+        highWaterMark.accumulateAndGet(id, Math::max);
+    }
+
+    /**
+     * Helper method to copy a student so callers cannot mutate cached entries
+     */
+    private static Student copyOf(Student student) {
+        return new Student(student.getId(), student.getName(), student.getEmail(),
+                student.getAge(), student.getGpa(), student.getEnrollmentDate());
+    }
+
+    /**
+     * Helper method to write a nullable UTF-8 string as a length-prefixed field
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Helper method to read a field written by writeString
+     */
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new IllegalStateException("string length " + length + " exceeds remaining snapshot data");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -12,9 +12,20 @@ import java.util.List;
  */
 public class StudentDAO {
     private Connection connection;
+    private StudentCache cache;
     
     public StudentDAO() {
-        this.connection = DatabaseConnection.getConnection();
+        this(DatabaseConnection.getConnection());
+    }
+    
+    /**
+     * Create a DAO that uses the given connection instead of the shared one
+     * @param connection The connection to run queries on
+     */
+    public StudentDAO(Connection connection) {
+        this.connection = connection;
+        this.cache = StudentCache.getInstance();
+        this.cache.warmUp(connection);
     }
     
     /**
@@ -39,6 +50,7 @@ public class StudentDAO {
                 ResultSet generatedKeys = stmt.getGeneratedKeys();
                 if (generatedKeys.next()) {
                     student.setId(generatedKeys.getInt(1));
+                    cache.invalidate(student.getId());
                 }
                 return true;
             }
@@ -56,12 +68,14 @@ public class StudentDAO {
     public List<Student> getAllStudents() {
         List<Student> students = new ArrayList<>();
         String query = "SELECT * FROM students";
+        long[] cacheStamp = cache.beginRead();
         
         try (PreparedStatement stmt = connection.prepareStatement(query);
              ResultSet rs = stmt.executeQuery()) {
             
             while (rs.next()) {
                 Student student = extractStudentFromResultSet(rs);
+                cache.putIfUnchanged(student, cacheStamp);
                 students.add(student);
             }
         } catch (SQLException e) {
@@ -77,14 +91,22 @@ public class StudentDAO {
      * @return Student object if found, null otherwise
      */
     public Student getStudentById(int id) {
+        Student cached = cache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        
         String query = "SELECT * FROM students WHERE id = ?";
+        long[] cacheStamp = cache.beginRead();
         
         try (PreparedStatement stmt = connection.prepareStatement(query)) {
             stmt.setInt(1, id);
             
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return extractStudentFromResultSet(rs);
+                    Student student = extractStudentFromResultSet(rs);
+                    cache.putIfUnchanged(student, cacheStamp);
+                    return student;
                 }
             }
         } catch (SQLException e) {
@@ -102,6 +124,7 @@ public class StudentDAO {
     public List<Student> searchStudentsByName(String name) {
         List<Student> students = new ArrayList<>();
         String query = "SELECT * FROM students WHERE name LIKE ?";
+        long[] cacheStamp = cache.beginRead();
         
         try (PreparedStatement stmt = connection.prepareStatement(query)) {
             stmt.setString(1, "%" + name + "%");
@@ -109,6 +132,7 @@ public class StudentDAO {
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
                     Student student = extractStudentFromResultSet(rs);
+                    cache.putIfUnchanged(student, cacheStamp);
                     students.add(student);
                 }
             }
@@ -136,6 +160,8 @@ public class StudentDAO {
             stmt.setInt(6, student.getId());
             
             int rowsAffected = stmt.executeUpdate();
+            // Evict rather than cache the caller's object, which may differ from the stored row
+            cache.invalidate(student.getId());
             return rowsAffected > 0;
         } catch (SQLException e) {
             System.out.println("Error updating student: " + e.getMessage());
@@ -155,6 +181,7 @@ public class StudentDAO {
             stmt.setInt(1, id);
             
             int rowsAffected = stmt.executeUpdate();
+            cache.invalidate(id);
             return rowsAffected > 0;
         } catch (SQLException e) {
             System.out.println("Error deleting student: " + e.getMessage());
@@ -0,0 +1,112 @@
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates realistic synthetic Student records for load testing
+ * Every generated email carries a per-run token, so emails stay unique across runs
+ * against the same database
+ */
+public class StudentDataGenerator {
+    private static final String[] FIRST_NAMES = {
+        "Bhanura", "Tashini", "Chamitha", "Udaya", "Thivanka", "Nimal", "Kasun", "Dilini",
+        "Sachini", "Ruwan", "Amaya", "Isuru", "Hasini", "Pasan", "Nadeesha", "Kavindu",
+        "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda",
+        "Priya", "Arjun", "Wei", "Mei", "Ahmed", "Fatima", "Carlos", "Sofia"
+    };
+    private static final String[] LAST_NAMES = {
+        "Waduge", "Muthukumarana", "Madushanka", "Namal", "Wimalasena", "Perera", "Fernando",
+        "Silva", "Jayasinghe", "Bandara", "Wickramasinghe", "Gunawardena", "Smith", "Johnson",
+        "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Kumar", "Sharma", "Chen",
+        "Wang", "Khan", "Ali", "Rodriguez", "Martinez"
+    };
+    private static final String[] EMAIL_DOMAINS = {
+        "gmail.com", "yahoo.com", "outlook.com", "students.university.edu"
+    };
+    private static final LocalDate EARLIEST_ENROLLMENT = LocalDate.of(2018, 1, 1);
+    private static final int ENROLLMENT_DAYS = 365 * 7;
+
+    private final AtomicLong emailSequence = new AtomicLong();
+    private final String runToken = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    /**
+     * Get the token included in every email generated by this instance
+     * @return The run token, made only of digits and lowercase letters
+     */
+    public String getRunToken() {
+        return runToken;
+    }
+
+    /**
+     * Generate a new student that has not been saved yet
+     * @return Student object without an ID
+     */
+    public Student nextStudent() {
+        Random random = ThreadLocalRandom.current();
+        String firstName = pick(FIRST_NAMES, random);
+        String lastName = pick(LAST_NAMES, random);
+
+        return new Student(firstName + " " + lastName, nextEmail(firstName, lastName, random),
+                nextAge(random), nextGpa(random), nextEnrollmentDate(random));
+    }
+
+    /**
+     * Generate a changed version of an existing student, keeping its ID, name and email
+     * @param student The student to modify
+     * @return A new Student object with updated age and GPA
+     */
+    public Student modify(Student student) {
+        Random random = ThreadLocalRandom.current();
+        return new Student(student.getId(), student.getName(), student.getEmail(),
+                nextAge(random), nextGpa(random), student.getEnrollmentDate());
+    }
+
+    /**
+     * Pick a name fragment as a user would type it into the search box
+     * @return A first or last name
+     */
+    public String nextSearchTerm() {
+        Random random = ThreadLocalRandom.current();
+        return random.nextBoolean() ? pick(FIRST_NAMES, random) : pick(LAST_NAMES, random);
+    }
+
+    /**
+     * Helper method to build an email that includes a unique sequence number and the run token
+     */
+    private String nextEmail(String firstName, String lastName, Random random) {
+        return (firstName + "." + lastName).toLowerCase() + "." + emailSequence.incrementAndGet()
+                + "." + runToken + "@" + pick(EMAIL_DOMAINS, random);
+    }
+
+    /**
+     * Helper method to generate an age, mostly in the typical undergraduate range
+     */
+    private static int nextAge(Random random) {
+        int age = (int) Math.round(21 + random.nextGaussian() * 3);
+        return Math.max(17, Math.min(60, age));
+    }
+
+    /**
+     * Helper method to generate a GPA rounded to two decimals on the 4.0 scale
+     */
+    private static double nextGpa(Random random) {
+        double gpa = 3.0 + random.nextGaussian() * 0.5;
+        gpa = Math.max(0.0, Math.min(4.0, gpa));
+        return Math.round(gpa * 100) / 100.0;
+    }
+
+    /**
+     * Helper method to generate an enrollment date in YYYY-MM-DD format
+     */
+    private static String nextEnrollmentDate(Random random) {
+        return EARLIEST_ENROLLMENT.plusDays(random.nextInt(ENROLLMENT_DAYS)).toString();
+    }
+
+    /**
+     * Helper method to pick a random element of an array
+     */
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
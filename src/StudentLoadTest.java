@@ -0,0 +1,458 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load and soak test tool that drives StudentDAO with a mix of registrar operations
+ *
+ * Requests are issued open-loop at a constant arrival rate, and each latency is measured
+ * from the request's scheduled start rather than from when a worker picked it up, so a
+ * stalled database shows up as queueing delay instead of being hidden (coordinated omission).
+ * Each worker thread has its own connection and StudentDAO, so --threads models concurrent
+ * clients. All workers still share the process-wide StudentCache.
+ *
+ * By default it runs against an in-memory H2 database using the H2 jar in lib/.
+ * Options are passed as --name=value:
+ *   --threads=8 --duration=60 --rate=500 --rows=100000 --report=10
+ *   --mix=create:5,get:60,search:10,update:20,delete:5
+ *   --url=jdbc:h2:mem:student_load_test;MODE=MySQL;DB_CLOSE_DELAY=-1
+ */
+public class StudentLoadTest {
+    private static final String DEFAULT_URL = "jdbc:h2:mem:student_load_test;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final String DEFAULT_MIX = "create:5,get:60,search:10,update:20,delete:5";
+    private static final int SEED_BATCH_SIZE = 10000;
+    private static final int MAX_RATE = 1_000_000_000;
+    private static final String USAGE = "Usage: StudentLoadTest [--threads=N] [--duration=SECONDS] [--rate=OPS_PER_SECOND]"
+            + " [--rows=N] [--report=SECONDS] [--mix=op:weight,...] [--url=JDBC_URL]\n"
+            + "  threads, duration and report must be positive, rate must be between 1 and " + MAX_RATE
+            + " and rows must not be negative.\n"
+            + "  Mix operations are create, get, search, update and delete; weights must not be negative"
+            + " and must add up to more than 0.";
+
+    private enum Operation { CREATE, GET, SEARCH, UPDATE, DELETE }
+
+    private static final StudentDataGenerator generator = new StudentDataGenerator();
+    private static final IdPool ids = new IdPool();
+    private static final Map<Operation, LatencyHistogram> latencies = new HashMap<>();
+    private static final Map<Operation, AtomicLong> errors = new HashMap<>();
+    private static final Queue<StudentDAO> idleDAOs = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<StudentDAO> workerDAO = ThreadLocal.withInitial(idleDAOs::poll);
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int threads;
+        int durationSeconds;
+        int rate;
+        int rows;
+        int reportSeconds;
+        OperationMix mix;
+        try {
+            threads = Integer.parseInt(options.getOrDefault("threads", "8"));
+            durationSeconds = Integer.parseInt(options.getOrDefault("duration", "60"));
+            rate = Integer.parseInt(options.getOrDefault("rate", "500"));
+            rows = Integer.parseInt(options.getOrDefault("rows", "100000"));
+            reportSeconds = Integer.parseInt(options.getOrDefault("report", "10"));
+            mix = parseMix(options.getOrDefault("mix", DEFAULT_MIX));
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid option: " + e.getMessage());
+            System.out.println(USAGE);
+            return;
+        }
+        if (threads < 1 || durationSeconds < 1 || rate < 1 || rate > MAX_RATE || rows < 0 || reportSeconds < 1) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        // Keep synthetic students out of the application's cache snapshot
+        Path snapshot = Files.createTempFile("student_load_test", ".snapshot");
+        Files.delete(snapshot);
+        System.setProperty("student.db.url", options.getOrDefault("url", DEFAULT_URL));
+        System.setProperty("student.cache.snapshot", snapshot.toString());
+
+        Connection connection = DatabaseConnection.getConnection();
+        if (connection == null) {
+            System.out.println("Could not connect to the load test database. Is its JDBC driver on the classpath?");
+            return;
+        }
+
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+            errors.put(operation, new AtomicLong());
+        }
+
+        List<Connection> workerConnections = new ArrayList<>();
+        try {
+            createSchema(connection);
+            seedStudents(connection, rows);
+            loadSeededIds(connection);
+            if (!openWorkerConnections(threads, workerConnections)) {
+                System.out.println("Could not open a connection for every worker thread.");
+                return;
+            }
+
+            System.out.println("Running " + rate + " ops/s on " + threads + " threads, one connection each, for "
+                    + durationSeconds + "s with mix " + mix);
+            long elapsedNanos = run(threads, rate, durationSeconds, reportSeconds, mix);
+            printReport(elapsedNanos);
+        } finally {
+            for (Connection workerConnection : workerConnections) {
+                closeQuietly(workerConnection);
+            }
+            DatabaseConnection.closeConnection();
+            deleteQuietly(snapshot);
+        }
+    }
+
+    /**
+     * Issue operations at a fixed rate until the duration is up and wait for them to finish
+     * @return Nanoseconds from the first scheduled operation until the last one completed
+     */
+    private static long run(int threads, int rate, int durationSeconds, int reportSeconds,
+                            OperationMix mix) throws InterruptedException {
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>());
+        AtomicLong completed = new AtomicLong();
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        reporter.scheduleAtFixedRate(() -> System.out.println("  completed " + completed.get()
+                        + " ops, backlog " + workers.getQueue().size()),
+                reportSeconds, reportSeconds, TimeUnit.SECONDS);
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        for (long i = 0; ; i++) {
+            long scheduledStart = start + i * intervalNanos;
+            if (scheduledStart >= end) {
+                break;
+            }
+            long wait = scheduledStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = mix.pick();
+            workers.execute(() -> {
+                boolean success;
+                try {
+                    success = execute(workerDAO.get(), operation);
+                } catch (RuntimeException e) {
+                    success = false;
+                }
+                long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledStart);
+                latencies.get(operation).record(micros);
+                if (!success) {
+                    errors.get(operation).incrementAndGet();
+                }
+                completed.incrementAndGet();
+            });
+        }
+
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.HOURS);
+        long elapsedNanos = System.nanoTime() - start;
+        reporter.shutdownNow();
+        return elapsedNanos;
+    }
+
+    /**
+     * Open one connection and StudentDAO per worker thread
+     * @return true if every connection opened, false otherwise
+     */
+    private static boolean openWorkerConnections(int threads, List<Connection> workerConnections) {
+        for (int i = 0; i < threads; i++) {
+            Connection workerConnection = DatabaseConnection.openNewConnection();
+            if (workerConnection == null) {
+                return false;
+            }
+            workerConnections.add(workerConnection);
+            idleDAOs.add(new StudentDAO(workerConnection));
+        }
+        return true;
+    }
+
+    /**
+     * Run one operation through the worker's DAO
+     * @return true if the operation succeeded, false otherwise
+     */
+    private static boolean execute(StudentDAO studentDAO, Operation operation) {
+        int id;
+        switch (operation) {
+            case GET:
+                id = ids.random();
+                return id != 0 && studentDAO.getStudentById(id) != null;
+            case SEARCH:
+                studentDAO.searchStudentsByName(generator.nextSearchTerm());
+                return true;
+            case UPDATE:
+                // Same read-then-write flow as the console's update option
+                id = ids.random();
+                Student student = id != 0 ? studentDAO.getStudentById(id) : null;
+                return student != null && studentDAO.updateStudent(generator.modify(student));
+            case DELETE:
+                id = ids.take();
+                return id != 0 && studentDAO.deleteStudent(id);
+            case CREATE:
+            default:
+                Student created = generator.nextStudent();
+                if (studentDAO.createStudent(created)) {
+                    ids.add(created.getId());
+                    return true;
+                }
+                return false;
+        }
+    }
+
+    /**
+     * Print throughput and latency percentiles per operation and overall
+     */
+    private static void printReport(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        long totalOps = 0;
+
+        System.out.println("\n===== LOAD TEST RESULTS =====");
+        System.out.printf("%-8s %10s %8s %10s %10s %10s %10s%n",
+                "op", "count", "errors", "ops/s", "p50(ms)", "p99(ms)", "p999(ms)");
+
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram histogram = latencies.get(operation);
+            long count = histogram.getCount();
+            totalOps += count;
+            System.out.printf("%-8s %10d %8d %10.1f %10.2f %10.2f %10.2f%n",
+                    operation.name().toLowerCase(), count, errors.get(operation).get(), count / seconds,
+                    histogram.getPercentile(50) / 1000.0, histogram.getPercentile(99) / 1000.0,
+                    histogram.getPercentile(99.9) / 1000.0);
+        }
+
+        System.out.printf("%nTotal: %d ops in %.1fs (%.1f ops/s)%n", totalOps, seconds, totalOps / seconds);
+    }
+
+    /**
+     * Create the students table if it does not exist yet
+     */
+    private static void createSchema(Connection connection) throws SQLException {
+        String ddl = "CREATE TABLE IF NOT EXISTS students ("
+                + "id INT PRIMARY KEY AUTO_INCREMENT, "
+                + "name VARCHAR(100) NOT NULL, "
+                + "email VARCHAR(100) UNIQUE NOT NULL, "
+                + "age INT CHECK (age > 0 AND age <= 120), "
+                + "gpa DECIMAL(3,2) CHECK (gpa >= 0.0 AND gpa <= 4.0), "
+                + "enrollment_date DATE NOT NULL)";
+
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(ddl);
+        }
+    }
+
+    /**
+     * Insert generated students in batches, outside of the measured run
+     */
+    private static void seedStudents(Connection connection, int rows) throws SQLException {
+        String query = "INSERT INTO students (name, email, age, gpa, enrollment_date) VALUES (?, ?, ?, ?, ?)";
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+
+        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+            for (int i = 1; i <= rows; i++) {
+                Student student = generator.nextStudent();
+                stmt.setString(1, student.getName());
+                stmt.setString(2, student.getEmail());
+                stmt.setInt(3, student.getAge());
+                stmt.setDouble(4, student.getGpa());
+                stmt.setString(5, student.getEnrollmentDate());
+                stmt.addBatch();
+
+                if (i % SEED_BATCH_SIZE == 0 || i == rows) {
+                    stmt.executeBatch();
+                    connection.commit();
+                }
+                if (i % (SEED_BATCH_SIZE * 100) == 0) {
+                    System.out.println("  seeded " + i + " students");
+                }
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        System.out.println("Seeded " + rows + " students");
+    }
+
+    /**
+     * Load the IDs of the students seeded by this run into the pool used to pick targets.
+     * Rows that already existed are left alone, so updates and deletes only touch this run's data.
+     */
+    private static void loadSeededIds(Connection connection) throws SQLException {
+        String query = "SELECT id FROM students WHERE email LIKE ?";
+
+        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+            stmt.setString(1, "%." + generator.getRunToken() + "@%");
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getInt(1));
+                }
+            }
+        }
+    }
+
+    /**
+     * Helper method to parse a mix such as "get:80,create:20"
+     * @throws IllegalArgumentException if the mix is malformed or its weights add up to 0
+     */
+    private static OperationMix parseMix(String value) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix entry '" + part.trim() + "' is not op:weight");
+            }
+
+            Operation operation;
+            try {
+                operation = Operation.valueOf(pair[0].trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("unknown mix operation '" + pair[0].trim() + "'");
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("mix weight for " + pair[0].trim() + " is negative");
+            }
+            weights.put(operation, weight);
+        }
+
+        long total = 0;
+        for (int weight : weights.values()) {
+            total += weight;
+        }
+        if (total <= 0 || total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("mix weights must add up to between 1 and " + Integer.MAX_VALUE);
+        }
+        return new OperationMix(weights, (int) total);
+    }
+
+    /**
+     * Helper method to parse --name=value arguments
+     */
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            } else {
+                System.out.println("Ignoring unrecognised argument: " + arg);
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Helper method to close a worker connection, reporting but ignoring failures
+     */
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            System.out.println("Error closing connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Helper method to delete a temporary file, reporting but ignoring failures
+     */
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            System.out.println("Could not delete " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Operation weights with their total, used to pick operations at random
+     */
+    private static class OperationMix {
+        private final Map<Operation, Integer> weights;
+        private final int total;
+
+        OperationMix(Map<Operation, Integer> weights, int total) {
+            this.weights = weights;
+            this.total = total;
+        }
+
+        /**
+         * @return An operation chosen according to the weights
+         */
+        Operation pick() {
+            int roll = ThreadLocalRandom.current().nextInt(total);
+            for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+                roll -= entry.getValue();
+                if (roll < 0) {
+                    return entry.getKey();
+                }
+            }
+            return Operation.GET;
+        }
+
+        @Override
+        public String toString() {
+            return weights.toString();
+        }
+    }
+
+    /**
+     * Pool of live student IDs that supports picking and removing at random
+     */
+    private static class IdPool {
+        private int[] values = new int[1024];
+        private int size;
+
+        synchronized void add(int id) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = id;
+        }
+
+        /**
+         * @return A random live ID, or 0 if the pool is empty
+         */
+        synchronized int random() {
+            return size == 0 ? 0 : values[ThreadLocalRandom.current().nextInt(size)];
+        }
+
+        /**
+         * @return A random live ID removed from the pool, or 0 if the pool is empty
+         */
+        synchronized int take() {
+            if (size == 0) {
+                return 0;
+            }
+            int index = ThreadLocalRandom.current().nextInt(size);
+            int id = values[index];
+            values[index] = values[--size];
+            return id;
+        }
+    }
+}